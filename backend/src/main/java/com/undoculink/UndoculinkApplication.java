@@ -2,8 +2,10 @@ package com.undoculink;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling // Drives opportunity feed expiry and snapshots
 public class UndoculinkApplication {
 
 	public static void main(String[] args) {
@@ -2,14 +2,23 @@ package com.undoculink.config;
 
 import com.undoculink.security.JwtAuthFilter;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.authorization.AuthorizationDecision;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.core.Authentication;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.access.intercept.RequestAuthorizationContext;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.util.Set;
+import java.util.function.Supplier;
+
 /**
  * Security Configuration class for setting up authentication and authorization.
  * This class defines the security rules and JWT authentication setup.
@@ -21,6 +30,9 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthFilter jwtAuthFilter;  // Custom JWT authentication filter
 
+    @Value("${security.admin-usernames:}")
+    private Set<String> adminUsernames;  // Users allowed to change the shared opportunity catalog
+
     /**
      * Configures the security filter chain for HTTP requests.
      * This defines which endpoints are public, which require authentication,
@@ -37,6 +49,9 @@ public class SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Public endpoints that don't require authentication
                 .requestMatchers("/api/users/register", "/api/users/login", "/api/users/refresh-token").permitAll()
+                // Catalog writes change every qualifying student's feed, so only admins may make them
+                .requestMatchers(HttpMethod.POST, "/api/opportunities").access(this::isAdmin)
+                .requestMatchers(HttpMethod.DELETE, "/api/opportunities/*").access(this::isAdmin)
                 // All other endpoints require authentication
                 .anyRequest().authenticated()
             )
@@ -47,4 +62,21 @@ public class SecurityConfig {
         
         return http.build();
     }
+
+    /**
+     * Grants access when the request carries a valid JWT for a username listed
+     * in the "security.admin-usernames" property.
+     *
+     * @param authentication Supplies the current authentication
+     * @param context The request being authorized
+     * @return The authorization decision
+     */
+    private AuthorizationDecision isAdmin(Supplier<Authentication> authentication, RequestAuthorizationContext context) {
+        Authentication auth = authentication.get();
+        boolean admin = auth != null
+                && auth.isAuthenticated()
+                && !(auth instanceof AnonymousAuthenticationToken)
+                && adminUsernames.contains(auth.getName());
+        return new AuthorizationDecision(admin);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.undoculink.controller;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.undoculink.dto.FeedPage;
+import com.undoculink.dto.OpportunityRequest;
+import com.undoculink.entity.Opportunity;
+import com.undoculink.service.AuthService;
+import com.undoculink.service.OpportunityFeedService;
+import com.undoculink.service.OpportunityService;
+
+import jakarta.validation.Valid;
+
+@RestController
+@RequestMapping("/api/opportunities")
+@CrossOrigin(origins = "http://localhost:3000")
+public class OpportunityController {
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private OpportunityService opportunityService;
+
+    @Autowired
+    private OpportunityFeedService opportunityFeedService;
+
+    // Opportunities the current user is eligible for, served from the precomputed feed
+    @GetMapping("/feed")
+    public ResponseEntity<?> getFeed(@RequestHeader("Authorization") String token,
+                                     @RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "20") int size) {
+        try {
+            String username = authService.getUsernameFromToken(token.replace("Bearer ", ""));
+            FeedPage feed = opportunityFeedService.getFeed(username, page, size);
+            return ResponseEntity.ok(feed);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Admin only, see SecurityConfig
+    @PostMapping
+    public ResponseEntity<?> createOpportunity(@Valid @RequestBody OpportunityRequest request) {
+        try {
+            Opportunity opportunity = opportunityService.createOpportunity(request);
+            return ResponseEntity.ok(opportunity);
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    // Admin only, see SecurityConfig
+    @DeleteMapping("/{id}")
+    public ResponseEntity<?> deleteOpportunity(@PathVariable Long id) {
+        try {
+            opportunityService.deleteOpportunity(id);
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+}
@@ -8,17 +8,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.undoculink.config.RateLimitConfig;
+import com.undoculink.dto.EligibilityUpdateRequest;
 import com.undoculink.dto.LoginRequest;
 import com.undoculink.dto.RegisterRequest;
 import com.undoculink.entity.User;
 import com.undoculink.service.AuthService;
 import com.undoculink.service.AuthService.AuthResponse;
+import com.undoculink.service.UserService;
 
 import io.github.bucket4j.Bucket;
 import jakarta.validation.Valid;
@@ -31,6 +34,9 @@ public class UserController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private UserService userService;
+
     @Autowired
     private RateLimitConfig rateLimitConfig;
 
@@ -99,4 +105,22 @@ public class UserController {
             return ResponseEntity.badRequest().body(e.getMessage());
         }
     }
+
+    @PutMapping("/profile/eligibility")
+    public ResponseEntity<?> updateEligibility(@RequestHeader("Authorization") String token,
+                                               @Valid @RequestBody EligibilityUpdateRequest request) {
+        // Rate limiting
+        String username = authService.getUsernameFromToken(token.replace("Bearer ", ""));
+        Bucket bucket = resolveBucket(username);
+        if (!bucket.tryConsume(1)) {
+            return ResponseEntity.status(429).body("Too many requests. Please try again later.");
+        }
+
+        try {
+            User user = userService.updateEligibility(username, request.getEligibilityTags());
+            return ResponseEntity.ok(user.getEligibilityTags()); // Never echo the entity: it carries the PIN and seed phrase hashes
+        } catch (Exception e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
 }
\ No newline at end of file
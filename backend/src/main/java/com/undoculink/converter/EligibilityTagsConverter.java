@@ -0,0 +1,24 @@
+package com.undoculink.converter;
+
+import com.undoculink.entity.EligibilityTag;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.util.Set;
+
+/**
+ * Stores a set of eligibility tags as a single BIGINT bit mask.
+ */
+@Converter
+public class EligibilityTagsConverter implements AttributeConverter<Set<EligibilityTag>, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Set<EligibilityTag> attribute) {
+        return EligibilityTag.toMask(attribute);
+    }
+
+    @Override
+    public Set<EligibilityTag> convertToEntityAttribute(Long dbData) {
+        return EligibilityTag.fromMask(dbData == null ? 0L : dbData);
+    }
+}
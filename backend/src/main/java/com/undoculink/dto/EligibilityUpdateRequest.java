@@ -0,0 +1,14 @@
+package com.undoculink.dto;
+
+import com.undoculink.entity.EligibilityTag;
+import lombok.Data;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.Set;
+
+@Data
+public class EligibilityUpdateRequest {
+
+    @NotNull(message = "Eligibility tags are required")
+    private Set<EligibilityTag> eligibilityTags;
+}
@@ -0,0 +1,21 @@
+package com.undoculink.dto;
+
+import com.undoculink.entity.Opportunity;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class FeedPage {
+    private List<Opportunity> opportunities;
+    private int page;
+    private int size;
+    private int totalCount;
+
+    public FeedPage(List<Opportunity> opportunities, int page, int size, int totalCount) {
+        this.opportunities = opportunities;
+        this.page = page;
+        this.size = size;
+        this.totalCount = totalCount;
+    }
+}
@@ -0,0 +1,34 @@
+package com.undoculink.dto;
+
+import com.undoculink.entity.EligibilityTag;
+import com.undoculink.entity.OpportunityType;
+import lombok.Data;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+public class OpportunityRequest {
+
+    @NotBlank(message = "Title is required")
+    @Size(max = 200, message = "Title must be at most 200 characters")
+    private String title;
+
+    @NotBlank(message = "Organization is required")
+    @Size(max = 100, message = "Organization must be at most 100 characters")
+    private String organization;
+
+    @NotNull(message = "Type is required")
+    private OpportunityType type;
+
+    @NotBlank(message = "URL is required")
+    @Size(max = 500, message = "URL must be at most 500 characters")
+    private String url;
+
+    private Set<EligibilityTag> requiredTags;
+
+    private LocalDateTime expiresAt;
+}
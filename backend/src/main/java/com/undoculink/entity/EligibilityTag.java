@@ -0,0 +1,44 @@
+package com.undoculink.entity;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Eligibility attributes shared by student profiles and opportunities.
+ * A student is eligible for an opportunity when they hold every tag it requires.
+ * Tags are stored as a bit mask keyed by ordinal, so new tags must only be appended.
+ */
+public enum EligibilityTag {
+    DACA_RECIPIENT,
+    WORK_AUTHORIZATION,
+    ITIN,
+    AB540_ELIGIBLE,
+    HIGH_SCHOOL_STUDENT,
+    UNDERGRADUATE,
+    GRADUATE,
+    FIRST_GENERATION;
+
+    public long mask() {
+        return 1L << ordinal();
+    }
+
+    public static long toMask(Set<EligibilityTag> tags) {
+        long mask = 0L;
+        if (tags != null) {
+            for (EligibilityTag tag : tags) {
+                mask |= tag.mask();
+            }
+        }
+        return mask;
+    }
+
+    public static Set<EligibilityTag> fromMask(long mask) {
+        Set<EligibilityTag> tags = EnumSet.noneOf(EligibilityTag.class);
+        for (EligibilityTag tag : values()) {
+            if ((mask & tag.mask()) != 0) {
+                tags.add(tag);
+            }
+        }
+        return tags;
+    }
+}
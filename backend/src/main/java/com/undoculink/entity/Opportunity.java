@@ -0,0 +1,170 @@
+package com.undoculink.entity;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+import com.undoculink.converter.EligibilityTagsConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
+
+@Entity
+@Table(name = "opportunities") // Maps to the "opportunities" table in the database
+public class Opportunity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id", nullable = false)
+    private Long id; // Maps to the "id" column, increases with every new opportunity
+
+    @Column(name = "title", nullable = false, length = 200)
+    private String title; // Maps to the "title" column
+
+    @Column(name = "organization", nullable = false, length = 100)
+    private String organization; // Maps to the "organization" column
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false, length = 20)
+    private OpportunityType type; // Maps to the "type" column
+
+    @Column(name = "url", nullable = false, length = 500)
+    private String url; // Maps to the "url" column
+
+    @Convert(converter = EligibilityTagsConverter.class)
+    @Column(name = "required_tags", nullable = false)
+    private Set<EligibilityTag> requiredTags = EnumSet.noneOf(EligibilityTag.class); // Maps to the "required_tags" bit mask column
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt; // Maps to the "expires_at" column, null if the opportunity never expires
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt; // Maps to the "created_at" column
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // Maps to the "updated_at" column
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt; // Maps to the "deleted_at" column, set instead of deleting the row
+
+    // Default constructor (required by JPA)
+    public Opportunity() {}
+
+    // Getters and Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getOrganization() {
+        return organization;
+    }
+
+    public void setOrganization(String organization) {
+        this.organization = organization;
+    }
+
+    public OpportunityType getType() {
+        return type;
+    }
+
+    public void setType(OpportunityType type) {
+        this.type = type;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public Set<EligibilityTag> getRequiredTags() {
+        return requiredTags;
+    }
+
+    public void setRequiredTags(Set<EligibilityTag> requiredTags) {
+        this.requiredTags = requiredTags;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(LocalDateTime expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        this.createdAt = LocalDateTime.now(); // Automatically set the "created_at" field
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now(); // Lets the opportunity feed catch up on changed rows
+    }
+
+    @Override
+    public String toString() {
+        return "Opportunity{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", organization='" + organization + '\'' +
+                ", type=" + type +
+                ", url='" + url + '\'' +
+                ", requiredTags=" + requiredTags +
+                ", expiresAt=" + expiresAt +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                ", deletedAt=" + deletedAt +
+                '}';
+    }
+}
@@ -0,0 +1,9 @@
+package com.undoculink.entity;
+
+public enum OpportunityType {
+    JOB,
+    INTERNSHIP,
+    FELLOWSHIP,
+    RESEARCH,
+    SCHOLARSHIP
+}
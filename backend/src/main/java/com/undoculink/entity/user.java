@@ -1,11 +1,21 @@
 package com.undoculink.entity;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import com.undoculink.converter.EligibilityTagsConverter;
 
 import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 
 @Entity
@@ -13,8 +23,9 @@ import jakarta.persistence.Table;
 public class User {
 
     @Id
-    @Column(name = "id", nullable = false, unique = true, length = 36)
-    private String id; // Maps to the "id" column in the database
+    @JdbcTypeCode(SqlTypes.BINARY) // Stored as the 16 big-endian bytes, serialized as the canonical string in JSON
+    @Column(name = "id", nullable = false, unique = true, columnDefinition = "BINARY(16)")
+    private UUID id; // Maps to the "id" column in the database
 
     @Column(name = "username", nullable = false, unique = true, length = 20)
     private String username; // Maps to the "username" column
@@ -28,14 +39,21 @@ public class User {
     @Column(name = "seed_phrase_hash", nullable = false, length = 256)
     private String seedPhraseHash; // Maps to the "seed_phrase_hash" column
 
+    @Convert(converter = EligibilityTagsConverter.class)
+    @Column(name = "eligibility_tags", nullable = false)
+    private Set<EligibilityTag> eligibilityTags = EnumSet.noneOf(EligibilityTag.class); // Maps to the "eligibility_tags" bit mask column
+
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt; // Maps to the "created_at" column
 
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt; // Maps to the "updated_at" column
+
     // Default constructor (required by JPA)
     public User() {}
 
     // Parameterized constructor
-    public User(String id, String username, String publicKey, String hashedPin, String seedPhraseHash, LocalDateTime createdAt) {
+    public User(UUID id, String username, String publicKey, String hashedPin, String seedPhraseHash, LocalDateTime createdAt) {
         this.id = id;
         this.username = username;
         this.publicKey = publicKey;
@@ -46,11 +64,11 @@ public class User {
 
     // Getters and Setters
 
-    public String getId() {
+    public UUID getId() {
         return id;
     }
 
-    public void setId(String id) {
+    public void setId(UUID id) {
         this.id = id;
     }
 
@@ -86,6 +104,14 @@ public class User {
         this.seedPhraseHash = seedPhraseHash;
     }
 
+    public Set<EligibilityTag> getEligibilityTags() {
+        return eligibilityTags;
+    }
+
+    public void setEligibilityTags(Set<EligibilityTag> eligibilityTags) {
+        this.eligibilityTags = eligibilityTags;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -94,9 +120,23 @@ public class User {
         this.createdAt = createdAt;
     }
 
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
     @PrePersist
     protected void onCreate() {
         this.createdAt = LocalDateTime.now(); // Automatically set the "created_at" field
+        this.updatedAt = this.createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        this.updatedAt = LocalDateTime.now(); // Lets the opportunity feed catch up on changed users
     }
 
     @Override
@@ -107,7 +147,9 @@ public class User {
                 ", publicKey='" + publicKey + '\'' +
                 ", hashedPin='" + hashedPin + '\'' +
                 ", seedPhraseHash='" + seedPhraseHash + '\'' +
+                ", eligibilityTags=" + eligibilityTags +
                 ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
                 '}';
     }
 }
@@ -0,0 +1,7 @@
+package com.undoculink.feed;
+
+/**
+ * Published when an opportunity is created or removed from the catalog.
+ * Carries only the ID: the feed re-reads the committed row.
+ */
+public record OpportunityChangedEvent(Long opportunityId) {}
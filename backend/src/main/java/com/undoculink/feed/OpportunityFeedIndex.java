@@ -0,0 +1,384 @@
+package com.undoculink.feed;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory, incrementally maintained opportunity feeds for every student.
+ *
+ * Students with the same eligibility tags see the same opportunities, so one
+ * feed is materialized per distinct eligibility mask and shared by all of its
+ * students. Each feed is a sorted array of opportunity IDs, which makes serving
+ * a page a lookup plus an array copy of the page, independent of catalog or user count.
+ *
+ * Changes only touch the feeds they affect: a new or expired opportunity is
+ * inserted into or removed from the feeds whose mask satisfies its requirements,
+ * and a profile change moves one student to another feed. The active catalog is
+ * kept alongside so the feed for a newly seen mask can be built without a query.
+ *
+ * Reads share a lock and writes are exclusive, so this class is thread-safe.
+ */
+public class OpportunityFeedIndex {
+
+    public static final long NO_EXPIRY = Long.MAX_VALUE;
+
+    private static final int SNAPSHOT_MAGIC = 0x55464544; // "UFED"
+    private static final int SNAPSHOT_VERSION = 1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Active catalog as parallel arrays, sorted by opportunity ID
+    private long[] catalogIds = new long[64];
+    private long[] catalogRequired = new long[64];
+    private long[] catalogExpiry = new long[64];
+    private int catalogSize;
+    private long nextExpiry = NO_EXPIRY;
+
+    private final Map<Long, Feed> feeds = new HashMap<>(); // Keyed by eligibility mask
+    private final UserFeedTable users;
+
+    public OpportunityFeedIndex() {
+        this(1024);
+    }
+
+    public OpportunityFeedIndex(int expectedUsers) {
+        this.users = new UserFeedTable(expectedUsers);
+    }
+
+    /**
+     * One page of a student's feed.
+     *
+     * @param opportunityIds The IDs on this page, newest first
+     * @param totalCount The total number of opportunities in the feed
+     */
+    public record Page(long[] opportunityIds, int totalCount) {}
+
+    /**
+     * Adds an opportunity, or replaces it if the ID is already present.
+     *
+     * @param id The opportunity ID
+     * @param requiredMask The eligibility tags a student must hold
+     * @param expiresAtMillis Epoch millis after which it is dropped, or {@link #NO_EXPIRY}
+     */
+    public void putOpportunity(long id, long requiredMask, long expiresAtMillis) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(id);
+
+            int index = -Arrays.binarySearch(catalogIds, 0, catalogSize, id) - 1;
+            if (catalogSize == catalogIds.length) {
+                int capacity = catalogIds.length << 1;
+                catalogIds = Arrays.copyOf(catalogIds, capacity);
+                catalogRequired = Arrays.copyOf(catalogRequired, capacity);
+                catalogExpiry = Arrays.copyOf(catalogExpiry, capacity);
+            }
+            int tail = catalogSize - index;
+            System.arraycopy(catalogIds, index, catalogIds, index + 1, tail);
+            System.arraycopy(catalogRequired, index, catalogRequired, index + 1, tail);
+            System.arraycopy(catalogExpiry, index, catalogExpiry, index + 1, tail);
+            catalogIds[index] = id;
+            catalogRequired[index] = requiredMask;
+            catalogExpiry[index] = expiresAtMillis;
+            catalogSize++;
+            nextExpiry = Math.min(nextExpiry, expiresAtMillis);
+
+            for (Feed feed : feeds.values()) {
+                if (feed.accepts(requiredMask)) {
+                    feed.insert(id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an opportunity from the catalog and every feed that contains it.
+     *
+     * @return true if the opportunity was present
+     */
+    public boolean removeOpportunity(long id) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes every opportunity whose expiry is at or before the given time.
+     * Returns immediately when nothing can have expired yet.
+     *
+     * @return The number of opportunities removed
+     */
+    public int removeExpired(long nowMillis) {
+        lock.writeLock().lock();
+        try {
+            if (nowMillis < nextExpiry) {
+                return 0;
+            }
+            int removed = 0;
+            long earliest = NO_EXPIRY;
+            int kept = 0;
+            for (int i = 0; i < catalogSize; i++) {
+                if (catalogExpiry[i] <= nowMillis) {
+                    for (Feed feed : feeds.values()) {
+                        if (feed.accepts(catalogRequired[i])) {
+                            feed.remove(catalogIds[i]);
+                        }
+                    }
+                    removed++;
+                } else {
+                    catalogIds[kept] = catalogIds[i];
+                    catalogRequired[kept] = catalogRequired[i];
+                    catalogExpiry[kept] = catalogExpiry[i];
+                    earliest = Math.min(earliest, catalogExpiry[i]);
+                    kept++;
+                }
+            }
+            catalogSize = kept;
+            nextExpiry = earliest;
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Assigns a student to the feed for their eligibility tags, materializing it
+     * from the catalog if no other student shares the same tags yet.
+     */
+    public void putUser(UUID userId, long eligibilityMask) {
+        lock.writeLock().lock();
+        try {
+            Feed feed = feeds.computeIfAbsent(eligibilityMask, this::materialize);
+            Feed previous = users.put(userId, feed);
+            if (previous != feed) {
+                feed.subscribers++;
+                if (previous != null && --previous.subscribers == 0) {
+                    feeds.remove(previous.eligibility); // Nobody reads it, so stop maintaining it
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean containsUser(UUID userId) {
+        lock.readLock().lock();
+        try {
+            return users.get(userId) != null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns one page of a student's feed, newest opportunities first.
+     *
+     * @param page Zero-based page number
+     * @param size Page size
+     * @return The page, or null if the student is not in the index
+     */
+    public Page page(UUID userId, int page, int size) {
+        lock.readLock().lock();
+        try {
+            Feed feed = users.get(userId);
+            if (feed == null) {
+                return null;
+            }
+            long skip = (long) page * size;
+            int count = (int) Math.max(0, Math.min(size, feed.size - skip));
+            long[] ids = new long[count];
+            int from = (int) (feed.size - 1 - skip);
+            for (int i = 0; i < count; i++) {
+                ids[i] = feed.ids[from - i];
+            }
+            return new Page(ids, feed.size);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long maxOpportunityId() {
+        lock.readLock().lock();
+        try {
+            return catalogSize == 0 ? 0L : catalogIds[catalogSize - 1];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int opportunityCount() {
+        lock.readLock().lock();
+        try {
+            return catalogSize;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int userCount() {
+        lock.readLock().lock();
+        try {
+            return users.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int feedCount() {
+        lock.readLock().lock();
+        try {
+            return feeds.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the catalog and each student's eligibility mask. Feeds are derived
+     * from these on load, which keeps the snapshot small.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(catalogSize);
+            for (int i = 0; i < catalogSize; i++) {
+                out.writeLong(catalogIds[i]);
+                out.writeLong(catalogRequired[i]);
+                out.writeLong(catalogExpiry[i]);
+            }
+            out.writeInt(users.size());
+            IOException[] failure = new IOException[1];
+            users.forEach((msb, lsb, feed) -> {
+                if (failure[0] != null) {
+                    return;
+                }
+                try {
+                    out.writeLong(msb);
+                    out.writeLong(lsb);
+                    out.writeLong(feed.eligibility);
+                } catch (IOException e) {
+                    failure[0] = e;
+                }
+            });
+            if (failure[0] != null) {
+                throw failure[0];
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Rebuilds an index from a snapshot written by {@link #writeTo(DataOutput)}.
+     *
+     * @throws IOException if the snapshot is unreadable or from another format version
+     */
+    public static OpportunityFeedIndex readFrom(DataInput in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("Unrecognized opportunity feed snapshot");
+        }
+        int opportunities = in.readInt();
+        long[] ids = new long[opportunities];
+        long[] required = new long[opportunities];
+        long[] expiry = new long[opportunities];
+        for (int i = 0; i < opportunities; i++) {
+            ids[i] = in.readLong();
+            required[i] = in.readLong();
+            expiry[i] = in.readLong();
+        }
+        int userCount = in.readInt();
+        OpportunityFeedIndex index = new OpportunityFeedIndex(userCount);
+        for (int i = 0; i < opportunities; i++) {
+            index.putOpportunity(ids[i], required[i], expiry[i]); // No feeds exist yet, so this is a sorted append
+        }
+        for (int i = 0; i < userCount; i++) {
+            index.putUser(new UUID(in.readLong(), in.readLong()), in.readLong());
+        }
+        return index;
+    }
+
+    private boolean removeInternal(long id) {
+        int index = Arrays.binarySearch(catalogIds, 0, catalogSize, id);
+        if (index < 0) {
+            return false;
+        }
+        long required = catalogRequired[index];
+        int tail = catalogSize - index - 1;
+        System.arraycopy(catalogIds, index + 1, catalogIds, index, tail);
+        System.arraycopy(catalogRequired, index + 1, catalogRequired, index, tail);
+        System.arraycopy(catalogExpiry, index + 1, catalogExpiry, index, tail);
+        catalogSize--;
+
+        for (Feed feed : feeds.values()) {
+            if (feed.accepts(required)) {
+                feed.remove(id);
+            }
+        }
+        return true;
+    }
+
+    private Feed materialize(long eligibilityMask) {
+        Feed feed = new Feed(eligibilityMask);
+        for (int i = 0; i < catalogSize; i++) {
+            if (feed.accepts(catalogRequired[i])) {
+                feed.insert(catalogIds[i]); // Catalog is sorted, so every insert appends
+            }
+        }
+        return feed;
+    }
+
+    /**
+     * The materialized feed shared by all students with one eligibility mask.
+     * Holds opportunity IDs in ascending order so new opportunities append.
+     */
+    static final class Feed {
+
+        final long eligibility;
+        long[] ids = new long[16];
+        int size;
+        int subscribers;
+
+        Feed(long eligibility) {
+            this.eligibility = eligibility;
+        }
+
+        boolean accepts(long requiredMask) {
+            return (requiredMask & ~eligibility) == 0;
+        }
+
+        void insert(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index >= 0) {
+                return;
+            }
+            index = -index - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size << 1);
+            }
+            System.arraycopy(ids, index, ids, index + 1, size - index);
+            ids[index] = id;
+            size++;
+        }
+
+        void remove(long id) {
+            int index = Arrays.binarySearch(ids, 0, size, id);
+            if (index < 0) {
+                return;
+            }
+            System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+            size--;
+        }
+    }
+}
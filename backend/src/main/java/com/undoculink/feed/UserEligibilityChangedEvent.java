@@ -0,0 +1,9 @@
+package com.undoculink.feed;
+
+import java.util.UUID;
+
+/**
+ * Published when a user is created or their eligibility tags change.
+ * Carries only the ID: the feed re-reads the committed tags.
+ */
+public record UserEligibilityChangedEvent(UUID userId) {}
@@ -0,0 +1,105 @@
+package com.undoculink.feed;
+
+import java.util.UUID;
+
+/**
+ * Open-addressing hash table from user ID to the feed that user reads.
+ * Keys are kept as two primitive longs rather than boxed UUIDs, so each
+ * student costs about 20 bytes per slot instead of a HashMap entry.
+ * Not thread-safe; {@link OpportunityFeedIndex} guards every access.
+ */
+class UserFeedTable {
+
+    private static final float MAX_LOAD = 0.6f;
+
+    private long[] mostSigBits;
+    private long[] leastSigBits;
+    private OpportunityFeedIndex.Feed[] feeds; // null marks an empty slot
+    private int size;
+
+    UserFeedTable(int expectedUsers) {
+        int capacity = Integer.highestOneBit(Math.max(16, (int) (expectedUsers / MAX_LOAD)) - 1) << 1;
+        allocate(capacity);
+    }
+
+    int size() {
+        return size;
+    }
+
+    OpportunityFeedIndex.Feed get(UUID userId) {
+        int slot = find(userId.getMostSignificantBits(), userId.getLeastSignificantBits());
+        return feeds[slot];
+    }
+
+    /**
+     * Maps the user to the given feed.
+     *
+     * @return The feed the user was previously mapped to, or null if the user is new
+     */
+    OpportunityFeedIndex.Feed put(UUID userId, OpportunityFeedIndex.Feed feed) {
+        long msb = userId.getMostSignificantBits();
+        long lsb = userId.getLeastSignificantBits();
+        int slot = find(msb, lsb);
+        OpportunityFeedIndex.Feed previous = feeds[slot];
+        if (previous == null) {
+            if (size + 1 > feeds.length * MAX_LOAD) {
+                grow();
+                slot = find(msb, lsb);
+            }
+            mostSigBits[slot] = msb;
+            leastSigBits[slot] = lsb;
+            size++;
+        }
+        feeds[slot] = feed;
+        return previous;
+    }
+
+    interface Visitor {
+        void visit(long mostSigBits, long leastSigBits, OpportunityFeedIndex.Feed feed);
+    }
+
+    void forEach(Visitor visitor) {
+        for (int i = 0; i < feeds.length; i++) {
+            if (feeds[i] != null) {
+                visitor.visit(mostSigBits[i], leastSigBits[i], feeds[i]);
+            }
+        }
+    }
+
+    // Returns the slot holding the key, or the empty slot where it belongs
+    private int find(long msb, long lsb) {
+        int mask = feeds.length - 1;
+        int slot = hash(msb, lsb) & mask;
+        while (feeds[slot] != null && (mostSigBits[slot] != msb || leastSigBits[slot] != lsb)) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int hash(long msb, long lsb) {
+        // UUIDv7 keys share their high bits, so mix everything before masking
+        long h = (msb ^ (lsb * 0x9E3779B97F4A7C15L)) * 0xC2B2AE3D27D4EB4FL;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void grow() {
+        long[] oldMsb = mostSigBits;
+        long[] oldLsb = leastSigBits;
+        OpportunityFeedIndex.Feed[] oldFeeds = feeds;
+        allocate(oldFeeds.length << 1);
+        for (int i = 0; i < oldFeeds.length; i++) {
+            if (oldFeeds[i] != null) {
+                int slot = find(oldMsb[i], oldLsb[i]);
+                mostSigBits[slot] = oldMsb[i];
+                leastSigBits[slot] = oldLsb[i];
+                feeds[slot] = oldFeeds[i];
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        mostSigBits = new long[capacity];
+        leastSigBits = new long[capacity];
+        feeds = new OpportunityFeedIndex.Feed[capacity];
+    }
+}
@@ -0,0 +1,18 @@
+package com.undoculink.repository;
+
+import com.undoculink.entity.Opportunity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface OpportunityRepository extends JpaRepository<Opportunity, Long> {
+    List<Opportunity> findByUpdatedAtAfter(LocalDateTime since);
+
+    @Query("select o from Opportunity o where o.deletedAt is null and (o.expiresAt is null or o.expiresAt > :now)")
+    List<Opportunity> findActive(@Param("now") LocalDateTime now);
+}
@@ -1,13 +1,31 @@
 package com.undoculink.repository;
 
+import com.undoculink.entity.EligibilityTag;
 import com.undoculink.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, String> {
+public interface UserRepository extends JpaRepository<User, UUID> {
     Optional<User> findByUsername(String username);
     boolean existsByUsername(String username);
-}
\ No newline at end of file
+
+    // Loads only what the opportunity feed needs when it is rebuilt from scratch
+    List<EligibilityView> findAllProjectedBy();
+
+    Optional<EligibilityView> findEligibilityById(UUID id);
+
+    // Users changed since a feed snapshot was written, for catch-up on startup
+    List<EligibilityView> findByUpdatedAtAfter(LocalDateTime since);
+
+    interface EligibilityView {
+        UUID getId();
+        Set<EligibilityTag> getEligibilityTags();
+    }
+}
@@ -3,14 +3,17 @@ package com.undoculink.service;
 import com.undoculink.dto.LoginRequest;
 import com.undoculink.dto.RegisterRequest;
 import com.undoculink.entity.User;
+import com.undoculink.feed.UserEligibilityChangedEvent;
 import com.undoculink.repository.UserRepository;
+import com.undoculink.util.UuidV7;
 import lombok.Data;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
-import java.util.UUID;
 
 @Service
 public class AuthService {
@@ -21,6 +24,9 @@ public class AuthService {
     @Autowired
     private JwtService jwtService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     // Response DTO
     @Data
     public static class AuthResponse {
@@ -35,6 +41,7 @@ public class AuthService {
         }
     }
 
+    @Transactional
     public User registerUser(RegisterRequest request) throws NoSuchAlgorithmException {
         // Check if username exists
         if (userRepository.existsByUsername(request.getUsername())) {
@@ -43,13 +50,15 @@ public class AuthService {
 
         // Create new user
         User user = new User();
-        user.setId(UUID.randomUUID().toString());
+        user.setId(UuidV7.generate()); // Time-ordered so inserts append to the primary key
         user.setUsername(request.getUsername());
         user.setHashedPin(hashPin(request.getPin()));
         user.setPublicKey(request.getPublicKey());
         user.setSeedPhraseHash(hashSeedPhrase(request.getSeedPhrase()));
 
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserEligibilityChangedEvent(saved.getId())); // Give the new user a feed once committed
+        return saved;
     }
 
     public AuthResponse loginUser(LoginRequest request) throws NoSuchAlgorithmException {
@@ -0,0 +1,277 @@
+package com.undoculink.service;
+
+import com.undoculink.dto.FeedPage;
+import com.undoculink.entity.EligibilityTag;
+import com.undoculink.entity.Opportunity;
+import com.undoculink.entity.User;
+import com.undoculink.feed.OpportunityChangedEvent;
+import com.undoculink.feed.OpportunityFeedIndex;
+import com.undoculink.feed.UserEligibilityChangedEvent;
+import com.undoculink.repository.OpportunityRepository;
+import com.undoculink.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps every student's opportunity feed materialized in an {@link OpportunityFeedIndex}.
+ * Catalog and profile changes are applied to the index once their transaction
+ * commits, so a dashboard view reads a precomputed page instead of joining users
+ * and opportunities.
+ * The index is snapshotted to disk periodically and on shutdown. On startup it is
+ * reloaded and caught up from the rows whose updated_at is newer than the snapshot.
+ *
+ * The backend must run as a single instance. All feed state lives in this JVM,
+ * so other nodes would never see its changes and their feeds would silently
+ * drift apart, and nodes sharing a snapshot path would overwrite each other.
+ */
+@Service
+public class OpportunityFeedService {
+
+    private static final Logger log = LoggerFactory.getLogger(OpportunityFeedService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // Changes are stamped before they commit and reach the index after, so catch-up starts this far before the snapshot
+    private static final long CATCH_UP_MARGIN_MILLIS = 5 * 60 * 1000;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private OpportunityRepository opportunityRepository;
+
+    @Value("${feed.snapshot.path:data/opportunity-feed.bin}")
+    private String snapshotPath;
+
+    private volatile OpportunityFeedIndex index = new OpportunityFeedIndex();
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // Serializes loading and rebuilding with incremental changes, so no change is applied to an index being replaced
+    private final Object updateLock = new Object();
+
+    @PostConstruct
+    public void load() {
+        synchronized (updateLock) {
+            loadOrRebuild();
+        }
+    }
+
+    private void loadOrRebuild() {
+        Path path = Paths.get(snapshotPath);
+        if (Files.exists(path)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+                long capturedAtMillis = in.readLong();
+                OpportunityFeedIndex loaded = OpportunityFeedIndex.readFrom(in);
+                catchUp(loaded, capturedAtMillis - CATCH_UP_MARGIN_MILLIS);
+                index = loaded;
+                log.info("Loaded opportunity feeds for {} users from {}", loaded.userCount(), path);
+                return;
+            } catch (IOException e) {
+                log.warn("Could not read opportunity feed snapshot {}, rebuilding from the database", path, e);
+            }
+        }
+        rebuild();
+    }
+
+    /**
+     * Applies every user and opportunity change written since the given time, so a
+     * snapshot taken before an unclean shutdown is brought up to date. Only rows
+     * whose updated_at is past the watermark are read; deletions show up as
+     * soft-deleted rows. Re-applying a change the snapshot already holds is harmless.
+     */
+    private void catchUp(OpportunityFeedIndex loaded, long sinceMillis) {
+        LocalDateTime since = LocalDateTime.ofInstant(Instant.ofEpochMilli(sinceMillis), ZoneId.systemDefault());
+        for (Opportunity opportunity : opportunityRepository.findByUpdatedAtAfter(since)) {
+            apply(loaded, opportunity);
+        }
+        loaded.removeExpired(System.currentTimeMillis());
+        for (UserRepository.EligibilityView user : userRepository.findByUpdatedAtAfter(since)) {
+            loaded.putUser(user.getId(), EligibilityTag.toMask(user.getEligibilityTags()));
+        }
+        dirty.set(true);
+    }
+
+    /**
+     * Rebuilds every feed from the database with one scan of each table.
+     * Callers must hold {@link #updateLock}.
+     */
+    private void rebuild() {
+        OpportunityFeedIndex rebuilt = new OpportunityFeedIndex((int) userRepository.count());
+        for (Opportunity opportunity : opportunityRepository.findActive(LocalDateTime.now())) {
+            rebuilt.putOpportunity(opportunity.getId(), EligibilityTag.toMask(opportunity.getRequiredTags()),
+                    toEpochMillis(opportunity.getExpiresAt()));
+        }
+        for (UserRepository.EligibilityView user : userRepository.findAllProjectedBy()) {
+            rebuilt.putUser(user.getId(), EligibilityTag.toMask(user.getEligibilityTags()));
+        }
+        index = rebuilt;
+        dirty.set(true);
+        log.info("Rebuilt opportunity feeds for {} users", rebuilt.userCount());
+    }
+
+    /**
+     * Applies a committed opportunity change. The row is re-read in a new transaction
+     * so the index always reflects what the database holds, not the event's sender.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onOpportunityChanged(OpportunityChangedEvent event) {
+        synchronized (updateLock) {
+            Optional<Opportunity> found = opportunityRepository.findById(event.opportunityId());
+            if (found.isPresent()) {
+                apply(index, found.get());
+            } else {
+                index.removeOpportunity(event.opportunityId());
+            }
+            dirty.set(true);
+        }
+    }
+
+    /**
+     * Applies a committed eligibility change. Reading the tags under the lock means
+     * that when two updates race, whichever listener runs last reads the newer commit.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onUserEligibilityChanged(UserEligibilityChangedEvent event) {
+        refreshUser(event.userId());
+    }
+
+    private void refreshUser(UUID userId) {
+        synchronized (updateLock) {
+            userRepository.findEligibilityById(userId).ifPresent(user -> {
+                index.putUser(user.getId(), EligibilityTag.toMask(user.getEligibilityTags()));
+                dirty.set(true);
+            });
+        }
+    }
+
+    /**
+     * Returns one page of the user's feed, newest opportunities first.
+     *
+     * @param username The user whose feed to read
+     * @param page Zero-based page number
+     * @param size Page size, at most {@link #MAX_PAGE_SIZE}
+     * @return The page of opportunities
+     */
+    public FeedPage getFeed(String username, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Page must be at least 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        UUID userId = user.getId();
+
+        OpportunityFeedIndex.Page feedPage = index.page(userId, page, size);
+        if (feedPage == null) {
+            // Registered after the last snapshot was written
+            refreshUser(userId);
+            feedPage = index.page(userId, page, size);
+        }
+
+        List<Long> ids = new ArrayList<>(feedPage.opportunityIds().length);
+        for (long id : feedPage.opportunityIds()) {
+            ids.add(id);
+        }
+        Map<Long, Opportunity> byId = opportunityRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Opportunity::getId, Function.identity()));
+        List<Opportunity> opportunities = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Opportunity opportunity = byId.get(id);
+            if (opportunity != null && opportunity.getDeletedAt() == null) {
+                opportunities.add(opportunity);
+            }
+        }
+        return new FeedPage(opportunities, page, size, feedPage.totalCount());
+    }
+
+    @Scheduled(fixedDelayString = "${feed.expiry.sweep-interval-ms:60000}")
+    public void removeExpired() {
+        if (index.removeExpired(System.currentTimeMillis()) > 0) {
+            dirty.set(true);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${feed.snapshot.interval-ms:300000}")
+    public void saveSnapshotIfDirty() {
+        if (dirty.getAndSet(false)) {
+            try {
+                saveSnapshot();
+            } catch (IOException e) {
+                dirty.set(true);
+                log.error("Could not write opportunity feed snapshot", e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        saveSnapshotIfDirty();
+    }
+
+    private void saveSnapshot() throws IOException {
+        writeSnapshot(Paths.get(snapshotPath), index, System.currentTimeMillis());
+    }
+
+    /**
+     * Writes the capture time, used as the catch-up watermark on load, followed by the index.
+     * Writes to a temporary file first so a crash mid-write never leaves a truncated snapshot.
+     */
+    static void writeSnapshot(Path path, OpportunityFeedIndex index, long capturedAtMillis) throws IOException {
+        Path target = path.toAbsolutePath();
+        Files.createDirectories(target.getParent());
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+            out.writeLong(capturedAtMillis);
+            index.writeTo(out);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void apply(OpportunityFeedIndex target, Opportunity opportunity) {
+        if (opportunity.getDeletedAt() != null) {
+            target.removeOpportunity(opportunity.getId());
+        } else {
+            target.putOpportunity(opportunity.getId(), EligibilityTag.toMask(opportunity.getRequiredTags()),
+                    toEpochMillis(opportunity.getExpiresAt()));
+        }
+    }
+
+    private static long toEpochMillis(LocalDateTime expiresAt) {
+        return expiresAt == null
+                ? OpportunityFeedIndex.NO_EXPIRY
+                : expiresAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
@@ -0,0 +1,59 @@
+package com.undoculink.service;
+
+import com.undoculink.dto.OpportunityRequest;
+import com.undoculink.entity.EligibilityTag;
+import com.undoculink.entity.Opportunity;
+import com.undoculink.feed.OpportunityChangedEvent;
+import com.undoculink.repository.OpportunityRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Writes to the shared opportunity catalog and keeps the feeds in step.
+ * Reached through the admin-only endpoints in OpportunityController.
+ */
+@Service
+public class OpportunityService {
+
+    @Autowired
+    private OpportunityRepository opportunityRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Transactional
+    public Opportunity createOpportunity(OpportunityRequest request) {
+        Opportunity opportunity = new Opportunity();
+        opportunity.setTitle(request.getTitle());
+        opportunity.setOrganization(request.getOrganization());
+        opportunity.setType(request.getType());
+        opportunity.setUrl(request.getUrl());
+        Set<EligibilityTag> requiredTags = EnumSet.noneOf(EligibilityTag.class);
+        if (request.getRequiredTags() != null) {
+            requiredTags.addAll(request.getRequiredTags());
+        }
+        opportunity.setRequiredTags(requiredTags);
+        opportunity.setExpiresAt(request.getExpiresAt());
+
+        Opportunity saved = opportunityRepository.save(opportunity);
+        eventPublisher.publishEvent(new OpportunityChangedEvent(saved.getId())); // Only feeds that qualify are touched
+        return saved;
+    }
+
+    // Soft delete: the row stays so the feed can see the removal when catching up after a restart
+    @Transactional
+    public void deleteOpportunity(Long id) {
+        Opportunity opportunity = opportunityRepository.findById(id)
+                .filter(existing -> existing.getDeletedAt() == null)
+                .orElseThrow(() -> new RuntimeException("Opportunity not found"));
+        opportunity.setDeletedAt(LocalDateTime.now());
+        opportunityRepository.save(opportunity);
+        eventPublisher.publishEvent(new OpportunityChangedEvent(id));
+    }
+}
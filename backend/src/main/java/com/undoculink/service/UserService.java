@@ -1,18 +1,31 @@
 package com.undoculink.service;
 
+import com.undoculink.entity.EligibilityTag;
 import com.undoculink.entity.User;
+import com.undoculink.feed.UserEligibilityChangedEvent;
 import com.undoculink.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.EnumSet;
+import java.util.Set;
 
 @Service
 public class UserService {
     
     @Autowired
     private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
+    @Transactional
     public User createUser(User user) {
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserEligibilityChangedEvent(saved.getId()));
+        return saved;
     }
     
     public User findByUsername(String username) {
@@ -23,4 +36,16 @@ public class UserService {
     public boolean usernameExists(String username) {
         return userRepository.existsByUsername(username);
     }
+    
+    @Transactional
+    public User updateEligibility(String username, Set<EligibilityTag> eligibilityTags) {
+        User user = findByUsername(username);
+        Set<EligibilityTag> tags = EnumSet.noneOf(EligibilityTag.class);
+        tags.addAll(eligibilityTags);
+        user.setEligibilityTags(tags);
+
+        User saved = userRepository.save(user);
+        eventPublisher.publishEvent(new UserEligibilityChangedEvent(saved.getId())); // Moves the user to the feed for their new tags once committed
+        return saved;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,30 @@
+-- Schema for the opportunity catalog and student eligibility used by the
+-- per-user opportunity feed (MySQL 8.0). Eligibility tags are stored as a
+-- BIGINT bit mask keyed by EligibilityTag ordinal. updated_at lets the feed
+-- catch up on rows changed since its last snapshot; opportunities are
+-- soft-deleted through deleted_at so removals are visible to that catch-up.
+
+CREATE TABLE opportunities (
+    id            BIGINT       NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    title         VARCHAR(200) NOT NULL,
+    organization  VARCHAR(100) NOT NULL,
+    type          VARCHAR(20)  NOT NULL,
+    url           VARCHAR(500) NOT NULL,
+    required_tags BIGINT       NOT NULL DEFAULT 0,
+    expires_at    DATETIME(6)  NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    updated_at    DATETIME(6)  NOT NULL,
+    deleted_at    DATETIME(6)  NULL,
+    KEY idx_opportunities_expires_at (expires_at),
+    KEY idx_opportunities_updated_at (updated_at)
+) ENGINE=InnoDB;
+
+-- INSTANT: metadata-only. Existing users start with no eligibility tags and an
+-- updated_at older than any snapshot; the application sets it on every write.
+ALTER TABLE users
+    ADD COLUMN eligibility_tags BIGINT NOT NULL DEFAULT 0,
+    ADD COLUMN updated_at DATETIME(6) NOT NULL DEFAULT '1970-01-02 00:00:00',
+    ALGORITHM=INSTANT;
+
+-- Built in place while reads and writes continue.
+ALTER TABLE users ADD KEY idx_users_updated_at (updated_at), ALGORITHM=INPLACE, LOCK=NONE;
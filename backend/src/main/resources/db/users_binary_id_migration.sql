@@ -0,0 +1,41 @@
+-- Migrates users.id from VARCHAR(36) to a BINARY(16) primary key (MySQL 8.0.28+).
+-- Steps 1-4 run online while the current application keeps serving traffic.
+-- Step 5 is NOT online: it needs a short write freeze on the users table (see below).
+-- Existing random UUIDs are kept as-is; new users get time-ordered (version 7)
+-- UUIDs from the application.
+-- UUID_TO_BIN is called without the swap flag so the byte order matches how
+-- Hibernate binds User.id (java.util.UUID as BINARY), which is big-endian.
+
+-- 1. Add the new column. INSTANT: metadata-only, no table copy.
+ALTER TABLE users ADD COLUMN id_bin BINARY(16) NULL, ALGORITHM=INSTANT;
+
+-- 2. Keep id_bin populated for rows the running application inserts during the backfill.
+CREATE TRIGGER users_id_bin_before_insert BEFORE INSERT ON users
+    FOR EACH ROW SET NEW.id_bin = UUID_TO_BIN(NEW.id);
+
+-- 3. Backfill existing rows in small batches to keep transactions and replication lag short.
+--    Repeat until it reports 0 rows affected.
+UPDATE users SET id_bin = UUID_TO_BIN(id) WHERE id_bin IS NULL LIMIT 5000;
+
+-- 4. Swap the primary key. INPLACE with LOCK=NONE rebuilds the clustered index
+--    while reads and writes continue. The old column keeps a unique index so the
+--    running application's lookups and duplicate checks on id still work.
+ALTER TABLE users
+    MODIFY COLUMN id_bin BINARY(16) NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id_bin),
+    ADD UNIQUE KEY uk_users_id (id),
+    ALGORITHM=INPLACE, LOCK=NONE;
+
+-- 5. Cut over. This step needs a short write freeze: the old application writes
+--    36-character strings into id and breaks once id becomes BINARY(16), while the
+--    new application fails schema validation until it does. So:
+--      a. stop the old application (or stop accepting registrations),
+--      b. run the statements below; the column drop rebuilds the table in place,
+--         so the freeze lasts roughly as long as that rebuild,
+--      c. start the application version that maps users.id as BINARY(16).
+DROP TRIGGER users_id_bin_before_insert;
+ALTER TABLE users
+    DROP COLUMN id,
+    RENAME COLUMN id_bin TO id,
+    ALGORITHM=INPLACE, LOCK=NONE;
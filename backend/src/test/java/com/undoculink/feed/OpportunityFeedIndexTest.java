@@ -0,0 +1,120 @@
+package com.undoculink.feed;
+
+import com.undoculink.entity.EligibilityTag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class OpportunityFeedIndexTest {
+
+    private static final long DACA = EligibilityTag.DACA_RECIPIENT.mask();
+    private static final long UNDERGRAD = EligibilityTag.UNDERGRADUATE.mask();
+    private static final long NO_EXPIRY = OpportunityFeedIndex.NO_EXPIRY;
+
+    @Test
+    void servesOnlyEligibleOpportunitiesNewestFirst() {
+        OpportunityFeedIndex index = new OpportunityFeedIndex();
+        UUID student = UUID.randomUUID();
+        index.putUser(student, DACA);
+
+        index.putOpportunity(1, 0, NO_EXPIRY);
+        index.putOpportunity(2, DACA, NO_EXPIRY);
+        index.putOpportunity(3, DACA | UNDERGRAD, NO_EXPIRY);
+        index.putOpportunity(4, DACA, NO_EXPIRY);
+
+        OpportunityFeedIndex.Page page = index.page(student, 0, 10);
+        assertArrayEquals(new long[] {4, 2, 1}, page.opportunityIds());
+        assertEquals(3, page.totalCount());
+    }
+
+    @Test
+    void pagesThroughFeed() {
+        OpportunityFeedIndex index = new OpportunityFeedIndex();
+        UUID student = UUID.randomUUID();
+        index.putUser(student, 0);
+        for (long id = 1; id <= 5; id++) {
+            index.putOpportunity(id, 0, NO_EXPIRY);
+        }
+
+        assertArrayEquals(new long[] {5, 4}, index.page(student, 0, 2).opportunityIds());
+        assertArrayEquals(new long[] {3, 2}, index.page(student, 1, 2).opportunityIds());
+        assertArrayEquals(new long[] {1}, index.page(student, 2, 2).opportunityIds());
+        assertArrayEquals(new long[] {}, index.page(student, 3, 2).opportunityIds());
+        assertNull(index.page(UUID.randomUUID(), 0, 2));
+    }
+
+    @Test
+    void profileChangeMovesStudentToMatchingFeed() {
+        OpportunityFeedIndex index = new OpportunityFeedIndex();
+        index.putOpportunity(1, 0, NO_EXPIRY);
+        index.putOpportunity(2, UNDERGRAD, NO_EXPIRY);
+        UUID student = UUID.randomUUID();
+        index.putUser(student, 0);
+        assertArrayEquals(new long[] {1}, index.page(student, 0, 10).opportunityIds());
+
+        index.putUser(student, UNDERGRAD);
+        assertArrayEquals(new long[] {2, 1}, index.page(student, 0, 10).opportunityIds());
+        assertEquals(1, index.userCount());
+        assertEquals(1, index.feedCount()); // The feed nobody reads any more is dropped
+    }
+
+    @Test
+    void studentsWithSameTagsShareOneFeed() {
+        OpportunityFeedIndex index = new OpportunityFeedIndex(4);
+        for (int i = 0; i < 1000; i++) {
+            index.putUser(UUID.randomUUID(), i % 2 == 0 ? DACA : UNDERGRAD);
+        }
+        assertEquals(1000, index.userCount());
+        assertEquals(2, index.feedCount());
+    }
+
+    @Test
+    void removesDeletedAndExpiredOpportunities() {
+        OpportunityFeedIndex index = new OpportunityFeedIndex();
+        UUID student = UUID.randomUUID();
+        index.putUser(student, DACA);
+        index.putOpportunity(1, 0, 1_000);
+        index.putOpportunity(2, DACA, 2_000);
+        index.putOpportunity(3, DACA, NO_EXPIRY);
+
+        assertEquals(0, index.removeExpired(999));
+        assertEquals(1, index.removeExpired(1_000));
+        assertArrayEquals(new long[] {3, 2}, index.page(student, 0, 10).opportunityIds());
+
+        index.removeOpportunity(3);
+        assertFalse(index.removeOpportunity(3));
+        assertArrayEquals(new long[] {2}, index.page(student, 0, 10).opportunityIds());
+        assertEquals(1, index.opportunityCount());
+    }
+
+    @Test
+    void snapshotRoundTrip() throws IOException {
+        OpportunityFeedIndex index = new OpportunityFeedIndex();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        index.putUser(first, DACA);
+        index.putUser(second, 0);
+        index.putOpportunity(7, DACA, NO_EXPIRY);
+        index.putOpportunity(9, 0, 5_000);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        OpportunityFeedIndex restored = OpportunityFeedIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertArrayEquals(new long[] {9, 7}, restored.page(first, 0, 10).opportunityIds());
+        assertArrayEquals(new long[] {9}, restored.page(second, 0, 10).opportunityIds());
+        assertEquals(9, restored.maxOpportunityId());
+        assertEquals(1, restored.removeExpired(5_000));
+    }
+}
@@ -0,0 +1,116 @@
+package com.undoculink.repository;
+
+import com.undoculink.util.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+/**
+ * Compares bulk user inserts with random VARCHAR(36) keys against time-ordered
+ * BINARY(16) keys on a real MySQL/InnoDB instance.
+ * Skipped unless a database is supplied, e.g.
+ * ./mvnw test -Dtest=UserIdInsertBenchmark -Dbenchmark.jdbc.url=jdbc:mysql://localhost:3306/undoculink
+ *     -Dbenchmark.jdbc.user=root -Dbenchmark.jdbc.password=... [-Dbenchmark.rows=500000]
+ */
+@EnabledIfSystemProperty(named = "benchmark.jdbc.url", matches = ".+")
+class UserIdInsertBenchmark {
+
+    private static final int BATCH_SIZE = 1000;
+
+    // Mirrors the users table, with one secondary index so its key overhead shows up too
+    private static final String TABLE_DDL =
+            "CREATE TABLE %s (" +
+            " id %s NOT NULL PRIMARY KEY," +
+            " username VARCHAR(20) NOT NULL UNIQUE," +
+            " public_key VARCHAR(64) NOT NULL," +
+            " hashed_pin VARCHAR(256) NOT NULL," +
+            " seed_phrase_hash VARCHAR(256) NOT NULL," +
+            " created_at DATETIME(6) NOT NULL" +
+            ") ENGINE=InnoDB";
+
+    @Test
+    void randomStringKeysVersusTimeOrderedBinaryKeys() throws SQLException {
+        int rows = Integer.getInteger("benchmark.rows", 200_000);
+
+        String url = System.getProperty("benchmark.jdbc.url");
+        url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+
+        try (Connection connection = DriverManager.getConnection(url,
+                System.getProperty("benchmark.jdbc.user", "root"),
+                System.getProperty("benchmark.jdbc.password", ""))) {
+            connection.setAutoCommit(false);
+
+            long v4Millis = run(connection, "bench_users_v4", "VARCHAR(36)", rows, false);
+            long v7Millis = run(connection, "bench_users_v7", "BINARY(16)", rows, true);
+
+            System.out.printf("UUIDv4 VARCHAR(36): %d rows in %d ms, %s%n", rows, v4Millis, tableSize(connection, "bench_users_v4"));
+            System.out.printf("UUIDv7 BINARY(16):  %d rows in %d ms, %s%n", rows, v7Millis, tableSize(connection, "bench_users_v7"));
+
+            drop(connection, "bench_users_v4");
+            drop(connection, "bench_users_v7");
+        }
+    }
+
+    private long run(Connection connection, String table, String idType, int rows, boolean timeOrdered) throws SQLException {
+        drop(connection, table);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(String.format(TABLE_DDL, table, idType));
+        }
+        connection.commit();
+
+        String sql = "INSERT INTO " + table +
+                " (id, username, public_key, hashed_pin, seed_phrase_hash, created_at) VALUES (?, ?, ?, ?, ?, NOW(6))";
+        String filler = "0".repeat(64);
+
+        long start = System.nanoTime();
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < rows; i++) {
+                if (timeOrdered) {
+                    insert.setBytes(1, UuidV7.toBytes(UuidV7.generate()));
+                } else {
+                    insert.setString(1, UUID.randomUUID().toString());
+                }
+                insert.setString(2, "u" + i);
+                insert.setString(3, filler);
+                insert.setString(4, filler);
+                insert.setString(5, filler);
+                insert.addBatch();
+
+                if ((i + 1) % BATCH_SIZE == 0) {
+                    insert.executeBatch();
+                    connection.commit();
+                }
+            }
+            insert.executeBatch();
+            connection.commit();
+        }
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    private String tableSize(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ANALYZE TABLE " + table);
+            try (ResultSet result = statement.executeQuery(
+                    "SELECT data_length, index_length FROM information_schema.tables" +
+                    " WHERE table_schema = DATABASE() AND table_name = '" + table + "'")) {
+                result.next();
+                return String.format("data %d KB, secondary indexes %d KB",
+                        result.getLong(1) / 1024, result.getLong(2) / 1024);
+            }
+        }
+    }
+
+    private void drop(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP TABLE IF EXISTS " + table);
+        }
+        connection.commit();
+    }
+}
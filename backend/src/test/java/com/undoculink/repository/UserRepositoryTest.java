@@ -0,0 +1,60 @@
+package com.undoculink.repository;
+
+import com.undoculink.entity.EligibilityTag;
+import com.undoculink.entity.User;
+import com.undoculink.util.UuidV7;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.EnumSet;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+// Runs against the embedded H2 database; the schema is generated from the entities
+@DataJpaTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+class UserRepositoryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Test
+    void storesIdAsSixteenBytesAndReadsItBack() {
+        UUID id = UuidV7.generate();
+        User user = new User();
+        user.setId(id);
+        user.setUsername("student");
+        user.setPublicKey("public-key");
+        user.setHashedPin("hashed-pin");
+        user.setSeedPhraseHash("seed-phrase-hash");
+        user.setEligibilityTags(EnumSet.of(EligibilityTag.DACA_RECIPIENT));
+        userRepository.save(user);
+        entityManager.flush();
+        entityManager.clear();
+
+        byte[] stored = (byte[]) entityManager.getEntityManager()
+                .createNativeQuery("SELECT id FROM users")
+                .getSingleResult();
+        assertEquals(16, stored.length);
+        assertArrayEquals(UuidV7.toBytes(id), stored);
+
+        User byId = userRepository.findById(id).orElseThrow();
+        assertEquals("student", byId.getUsername());
+        assertEquals(EnumSet.of(EligibilityTag.DACA_RECIPIENT), byId.getEligibilityTags());
+
+        User byUsername = userRepository.findByUsername("student").orElseThrow();
+        assertEquals(id, byUsername.getId());
+        assertEquals(id.toString(), byUsername.getId().toString()); // Canonical string form used by the API
+        assertTrue(userRepository.existsByUsername("student"));
+    }
+}
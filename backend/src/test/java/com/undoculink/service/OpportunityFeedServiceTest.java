@@ -0,0 +1,112 @@
+package com.undoculink.service;
+
+import com.undoculink.dto.FeedPage;
+import com.undoculink.entity.EligibilityTag;
+import com.undoculink.entity.Opportunity;
+import com.undoculink.entity.User;
+import com.undoculink.feed.OpportunityFeedIndex;
+import com.undoculink.repository.OpportunityRepository;
+import com.undoculink.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OpportunityFeedServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private OpportunityRepository opportunityRepository;
+
+    @InjectMocks
+    private OpportunityFeedService opportunityFeedService;
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void restartFromStaleSnapshotCatchesUpOnlyOnRowsChangedSinceIt() throws IOException {
+        UUID studentId = UUID.randomUUID();
+
+        // Snapshot from before the crash: student holds DACA_RECIPIENT, opportunities 1 and 2 exist
+        OpportunityFeedIndex stale = new OpportunityFeedIndex();
+        stale.putUser(studentId, EligibilityTag.DACA_RECIPIENT.mask());
+        stale.putOpportunity(1, EligibilityTag.DACA_RECIPIENT.mask(), OpportunityFeedIndex.NO_EXPIRY);
+        stale.putOpportunity(2, 0, OpportunityFeedIndex.NO_EXPIRY);
+        long capturedAt = System.currentTimeMillis();
+        Path snapshot = tempDir.resolve("feed.bin");
+        OpportunityFeedService.writeSnapshot(snapshot, stale, capturedAt);
+        ReflectionTestUtils.setField(opportunityFeedService, "snapshotPath", snapshot.toString());
+
+        // Since then: opportunity 1 was soft-deleted, 3 was added, and the student changed tags
+        LocalDateTime since = LocalDateTime.ofInstant(
+                Instant.ofEpochMilli(capturedAt - 5 * 60 * 1000), ZoneId.systemDefault());
+        Opportunity deleted = opportunity(1L, EnumSet.of(EligibilityTag.DACA_RECIPIENT));
+        deleted.setDeletedAt(LocalDateTime.now());
+        Opportunity added = opportunity(3L, EnumSet.of(EligibilityTag.UNDERGRADUATE));
+        when(opportunityRepository.findByUpdatedAtAfter(since)).thenReturn(List.of(deleted, added));
+        when(userRepository.findByUpdatedAtAfter(since)).thenReturn(List.of(
+                eligibilityView(studentId, EnumSet.of(EligibilityTag.UNDERGRADUATE))));
+
+        opportunityFeedService.load();
+
+        // No full-table scans on the snapshot path
+        verify(userRepository, never()).findAllProjectedBy();
+        verify(opportunityRepository, never()).findActive(any());
+
+        User student = new User();
+        student.setId(studentId);
+        student.setUsername("student");
+        when(userRepository.findByUsername("student")).thenReturn(Optional.of(student));
+        when(opportunityRepository.findAllById(List.of(3L, 2L)))
+                .thenReturn(List.of(opportunity(2L, EnumSet.noneOf(EligibilityTag.class)), added));
+
+        FeedPage page = opportunityFeedService.getFeed("student", 0, 10);
+        assertEquals(List.of(3L, 2L), page.getOpportunities().stream().map(Opportunity::getId).toList());
+        assertEquals(2, page.getTotalCount());
+    }
+
+    private static Opportunity opportunity(Long id, Set<EligibilityTag> requiredTags) {
+        Opportunity opportunity = new Opportunity();
+        opportunity.setId(id);
+        opportunity.setRequiredTags(requiredTags);
+        return opportunity;
+    }
+
+    private static UserRepository.EligibilityView eligibilityView(UUID id, Set<EligibilityTag> tags) {
+        return new UserRepository.EligibilityView() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public Set<EligibilityTag> getEligibilityTags() {
+                return tags;
+            }
+        };
+    }
+}
@@ -0,0 +1,48 @@
+package com.undoculink.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class UuidV7Test {
+
+    @Test
+    void generatesVersion7WithRfcVariant() {
+        UUID uuid = UuidV7.generate();
+        assertEquals(7, uuid.version());
+        assertEquals(2, uuid.variant());
+    }
+
+    @Test
+    void embedsCurrentTimestamp() {
+        long before = System.currentTimeMillis();
+        UUID uuid = UuidV7.generate();
+
+        long timestamp = uuid.getMostSignificantBits() >>> 16;
+        // May run slightly ahead of the clock after bursts that exhaust the per-millisecond counter
+        assertTrue(timestamp >= before && timestamp - before < 1000);
+    }
+
+    @Test
+    void binaryFormIsStrictlyIncreasing() {
+        byte[] previous = UuidV7.toBytes(UuidV7.generate());
+        for (int i = 0; i < 100_000; i++) {
+            byte[] next = UuidV7.toBytes(UuidV7.generate());
+            // BINARY columns compare as unsigned bytes, which is what InnoDB orders the index by
+            assertTrue(Arrays.compareUnsigned(previous, next) < 0);
+            previous = next;
+        }
+    }
+
+    @Test
+    void bytesRoundTrip() {
+        UUID uuid = UuidV7.generate();
+        assertEquals(uuid, UuidV7.fromBytes(UuidV7.toBytes(uuid)));
+        assertThrows(IllegalArgumentException.class, () -> UuidV7.fromBytes(new byte[15]));
+    }
+}